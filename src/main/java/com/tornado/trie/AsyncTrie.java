@@ -0,0 +1,310 @@
+package com.tornado.trie;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking query API over a {@link TrieDS}.
+ * Every query runs on a configurable executor instead of the caller's thread;
+ * on JDK 21+ pass {@code Executors.newVirtualThreadPerTaskExecutor()} to run
+ * each query on its own virtual thread. Queries do no I/O and hold no locks
+ * (unlike the logging TrieDS methods), so they neither block nor pin carrier threads.
+ *
+ * Operations supported:
+ * - lookup: Check if a word exists and retrieve its value
+ * - prefix search: Collect all words with a prefix into one cancellable future
+ * - prefix stream: Publish words with a prefix in bounded chunks, with backpressure
+ *
+ * TrieDS is not thread-safe: the Trie must not be modified while queries run.
+ */
+public class AsyncTrie {
+    /**
+     * How many words a prefix search collects between cancellation checks.
+     */
+    static final int CANCELLATION_CHECK_INTERVAL = 256;
+
+    private final TrieDS trie;
+    private final Executor executor;
+
+    /**
+     * Creates an async view of the Trie running on the common fork-join pool.
+     *
+     * @param trie the Trie to query
+     */
+    public AsyncTrie(TrieDS trie) {
+        this(trie, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates an async view of the Trie running on the given executor.
+     *
+     * @param trie the Trie to query
+     * @param executor the executor that runs queries
+     */
+    public AsyncTrie(TrieDS trie, Executor executor) {
+        if (trie == null) {
+            throw new IllegalArgumentException("Trie cannot be null");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor cannot be null");
+        }
+        this.trie = trie;
+        this.executor = executor;
+    }
+
+    /**
+     * Looks up a word in the Trie asynchronously.
+     *
+     * @param word the word to look up
+     * @return a future completed with true if the word exists, false otherwise
+     */
+    public CompletableFuture<Boolean> lookupAsync(String word) {
+        checkWord(word);
+        return supplyAsync(() -> findWord(word) != null);
+    }
+
+    /**
+     * Gets the value associated with a word asynchronously.
+     *
+     * @param word the word to look up
+     * @return a future completed with the value, or null if word doesn't exist
+     */
+    public CompletableFuture<Object> getValueAsync(String word) {
+        checkWord(word);
+        return supplyAsync(() -> {
+            TrieNode node = findWord(word);
+            return node != null ? node.getValue() : null;
+        });
+    }
+
+    /**
+     * Gets all words that start with the given prefix asynchronously.
+     * Cancelling the returned future stops the scan.
+     *
+     * @param prefix the prefix to search for
+     * @return a future completed with the words that start with the prefix
+     */
+    public CompletableFuture<List<String>> getWordsWithPrefixAsync(String prefix) {
+        if (prefix == null) {
+            throw new IllegalArgumentException("prefix cannot be null");
+        }
+
+        return collectAsync(() -> trie.iterateWordsWithPrefix(prefix));
+    }
+
+    /**
+     * Collects the words of an iterator on the executor, checking every
+     * {@link #CANCELLATION_CHECK_INTERVAL} words whether the future was cancelled.
+     *
+     * @param source creates the iterator on the executor thread
+     * @return a future completed with all words of the iterator
+     */
+    CompletableFuture<List<String>> collectAsync(Supplier<Iterator<String>> source) {
+        CompletableFuture<List<String>> future = new CompletableFuture<>();
+        execute(future, () -> {
+            try {
+                Iterator<String> words = source.get();
+                List<String> result = new ArrayList<>();
+                while (words.hasNext()) {
+                    if (result.size() % CANCELLATION_CHECK_INTERVAL == 0 && future.isDone()) {
+                        return;
+                    }
+                    result.add(words.next());
+                }
+                future.complete(result);
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Publishes all words that start with the given prefix in chunks of at
+     * most chunkSize words. Each request(n) lets the subscriber receive n more
+     * chunks; the scan pauses while there is no demand and stops on cancel.
+     * Every subscriber gets its own scan.
+     *
+     * @param prefix the prefix to search for
+     * @param chunkSize the maximum number of words per chunk
+     * @return a publisher of word chunks
+     */
+    public Flow.Publisher<List<String>> publishWordsWithPrefix(String prefix, int chunkSize) {
+        if (prefix == null) {
+            throw new IllegalArgumentException("prefix cannot be null");
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+
+        return publish(() -> trie.iterateWordsWithPrefix(prefix), chunkSize);
+    }
+
+    /**
+     * Publishes the words of an iterator in chunks of at most chunkSize words.
+     *
+     * @param source creates the iterator on the executor thread, once per subscriber
+     * @param chunkSize the maximum number of words per chunk
+     * @return a publisher of word chunks
+     */
+    Flow.Publisher<List<String>> publish(Supplier<Iterator<String>> source, int chunkSize) {
+        return subscriber -> {
+            if (subscriber == null) {
+                throw new NullPointerException("Subscriber cannot be null");
+            }
+            subscriber.onSubscribe(new ChunkSubscription(subscriber, source, chunkSize));
+        };
+    }
+
+    /**
+     * Runs the supplier on the executor. A rejected task fails the future
+     * instead of throwing at the caller.
+     */
+    private <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        execute(future, () -> {
+            try {
+                future.complete(supplier.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    private void execute(CompletableFuture<?> future, Runnable task) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Finds the end-of-word node for a word without the console logging of
+     * {@link TrieDS#lookup(String)}.
+     *
+     * @param word the word to find
+     * @return the node ending the word, or null if the word doesn't exist
+     */
+    private TrieNode findWord(String word) {
+        TrieNode node = trie.findNode(trie.getAlphabet().encode(word));
+        return node != null && node.isEndOfWord() ? node : null;
+    }
+
+    private static void checkWord(String word) {
+        if (word == null) {
+            throw new IllegalArgumentException("Word cannot be null");
+        }
+        if (word.isEmpty()) {
+            throw new IllegalArgumentException("Word cannot be empty");
+        }
+    }
+
+    /**
+     * Emits chunks on the executor. Calls to request() only add demand and
+     * schedule a drain; the pending counter makes sure a single drain runs at
+     * a time, so the subscriber is always signalled serially.
+     */
+    private final class ChunkSubscription implements Flow.Subscription, Runnable {
+        private final Flow.Subscriber<? super List<String>> subscriber;
+        private final Supplier<Iterator<String>> source;
+        private final int chunkSize;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger pending = new AtomicInteger();
+        private volatile boolean done = false;
+        private volatile Throwable error;
+        private Iterator<String> words;
+
+        ChunkSubscription(Flow.Subscriber<? super List<String>> subscriber, Supplier<Iterator<String>> source,
+                          int chunkSize) {
+            this.subscriber = subscriber;
+            this.source = source;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("Requested chunks must be positive: " + n);
+            } else {
+                requested.getAndUpdate(r -> r + n < 0 ? Long.MAX_VALUE : r + n);
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            done = true;
+        }
+
+        private void schedule() {
+            if (pending.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this);
+                } catch (RejectedExecutionException e) {
+                    done = true;
+                    subscriber.onError(e);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                drain();
+                missed = pending.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drain() {
+            if (done) {
+                return;
+            }
+            if (error != null) {
+                done = true;
+                subscriber.onError(error);
+                return;
+            }
+
+            try {
+                if (words == null) {
+                    words = source.get();
+                }
+                while (!done && error == null) {
+                    if (!words.hasNext()) {
+                        done = true;
+                        subscriber.onComplete();
+                        return;
+                    }
+                    if (requested.get() == 0) {
+                        return;
+                    }
+
+                    // Not presized: chunkSize may be huge to get everything in one chunk
+                    List<String> chunk = new ArrayList<>();
+                    while (chunk.size() < chunkSize && words.hasNext()) {
+                        chunk.add(words.next());
+                    }
+                    if (requested.get() != Long.MAX_VALUE) {
+                        requested.decrementAndGet();
+                    }
+                    subscriber.onNext(chunk);
+                }
+            } catch (Throwable e) {
+                done = true;
+                subscriber.onError(e);
+            }
+        }
+    }
+}
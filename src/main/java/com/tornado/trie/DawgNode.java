@@ -0,0 +1,129 @@
+package com.tornado.trie;
+
+import java.util.Arrays;
+
+/**
+ * Represents a state in the minimized automaton built by {@link TrieDAWG}.
+ * Each node contains:
+ * - Sorted parallel arrays of edge labels and target nodes
+ * - A flag indicating if this node accepts a word
+ * - The number of words reachable from this node (used to rank words)
+ *
+ * Nodes are shared between every word with the same suffix, so once a node
+ * has been frozen and registered it must never be modified again.
+ */
+final class DawgNode {
+    private static final char[] NO_LABELS = new char[0];
+    private static final DawgNode[] NO_TARGETS = new DawgNode[0];
+
+    private char[] labels = NO_LABELS;
+    private DawgNode[] targets = NO_TARGETS;
+    private boolean isFinal = false;
+    private int wordCount;
+    private int hash;
+
+    boolean isFinal() {
+        return isFinal;
+    }
+
+    void setFinal(boolean isFinal) {
+        this.isFinal = isFinal;
+    }
+
+    int getWordCount() {
+        return wordCount;
+    }
+
+    int childCount() {
+        return labels.length;
+    }
+
+    char getLabel(int index) {
+        return labels[index];
+    }
+
+    DawgNode getTarget(int index) {
+        return targets[index];
+    }
+
+    /**
+     * Finds the position of the edge with the given label.
+     *
+     * @param ch the label to find
+     * @return the edge index, or a negative value if there is no such edge
+     */
+    int indexOf(char ch) {
+        return Arrays.binarySearch(labels, ch);
+    }
+
+    boolean hasChildren() {
+        return labels.length > 0;
+    }
+
+    DawgNode lastChild() {
+        return targets[targets.length - 1];
+    }
+
+    /**
+     * Appends an edge. Labels must be appended in ascending order.
+     *
+     * @param ch the edge label
+     * @param node the target node
+     */
+    void appendChild(char ch, DawgNode node) {
+        int size = labels.length;
+        labels = Arrays.copyOf(labels, size + 1);
+        targets = Arrays.copyOf(targets, size + 1);
+        labels[size] = ch;
+        targets[size] = node;
+    }
+
+    void replaceLastChild(DawgNode node) {
+        targets[targets.length - 1] = node;
+    }
+
+    /**
+     * Computes the word count and hash of this node. All targets must
+     * already be frozen.
+     */
+    void freeze() {
+        int count = isFinal ? 1 : 0;
+        int h = isFinal ? 1 : 0;
+        for (int i = 0; i < labels.length; i++) {
+            count += targets[i].wordCount;
+            h = 31 * h + labels[i];
+            h = 31 * h + System.identityHashCode(targets[i]);
+        }
+        this.wordCount = count;
+        this.hash = h;
+    }
+
+    /**
+     * Two frozen nodes are equivalent when they have the same final flag and
+     * the same edges leading to the very same (already shared) targets.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DawgNode)) {
+            return false;
+        }
+        DawgNode other = (DawgNode) o;
+        if (isFinal != other.isFinal || hash != other.hash || !Arrays.equals(labels, other.labels)) {
+            return false;
+        }
+        for (int i = 0; i < targets.length; i++) {
+            if (targets[i] != other.targets[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
@@ -0,0 +1,192 @@
+package com.tornado.trie;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The alphabet a {@link TrieDS} uses to split keys into symbols, one node per symbol.
+ *
+ * Alphabets supported:
+ * - UTF16_CHAR: one symbol per Java char (surrogate pairs take two nodes)
+ * - CODE_POINT: one symbol per Unicode code point
+ * - UTF8_BYTE: one symbol per UTF-8 byte, with array-indexed children (fan-out 256)
+ * - NIBBLE: one symbol per 4 bits, with array-indexed children (fan-out 16)
+ * - BIT: one symbol per bit, with array-indexed children (fan-out 2)
+ *
+ * The byte-level alphabets also accept raw byte[] keys; String keys are encoded as UTF-8.
+ */
+public enum KeyAlphabet {
+
+    UTF16_CHAR(0) {
+        @Override
+        int[] encode(String word) {
+            int[] symbols = new int[word.length()];
+            for (int i = 0; i < symbols.length; i++) {
+                symbols[i] = word.charAt(i);
+            }
+            return symbols;
+        }
+
+        @Override
+        String decode(int[] symbols, int length) {
+            char[] chars = new char[length];
+            for (int i = 0; i < length; i++) {
+                chars[i] = (char) symbols[i];
+            }
+            return new String(chars);
+        }
+    },
+
+    CODE_POINT(0) {
+        @Override
+        int[] encode(String word) {
+            return word.codePoints().toArray();
+        }
+
+        @Override
+        String decode(int[] symbols, int length) {
+            return new String(symbols, 0, length);
+        }
+    },
+
+    UTF8_BYTE(256) {
+        @Override
+        int[] encode(byte[] key) {
+            int[] symbols = new int[key.length];
+            for (int i = 0; i < key.length; i++) {
+                symbols[i] = key[i] & 0xFF;
+            }
+            return symbols;
+        }
+
+        @Override
+        byte[] decodeBytes(int[] symbols, int length) {
+            byte[] key = new byte[length];
+            for (int i = 0; i < length; i++) {
+                key[i] = (byte) symbols[i];
+            }
+            return key;
+        }
+    },
+
+    NIBBLE(16) {
+        @Override
+        int[] encode(byte[] key) {
+            int[] symbols = new int[key.length * 2];
+            for (int i = 0; i < key.length; i++) {
+                symbols[2 * i] = (key[i] >> 4) & 0x0F;
+                symbols[2 * i + 1] = key[i] & 0x0F;
+            }
+            return symbols;
+        }
+
+        @Override
+        byte[] decodeBytes(int[] symbols, int length) {
+            byte[] key = new byte[length / 2];
+            for (int i = 0; i < key.length; i++) {
+                key[i] = (byte) ((symbols[2 * i] << 4) | symbols[2 * i + 1]);
+            }
+            return key;
+        }
+    },
+
+    BIT(2) {
+        @Override
+        int[] encode(byte[] key) {
+            int[] symbols = new int[key.length * 8];
+            for (int i = 0; i < symbols.length; i++) {
+                symbols[i] = (key[i / 8] >> (7 - i % 8)) & 1;
+            }
+            return symbols;
+        }
+
+        @Override
+        byte[] decodeBytes(int[] symbols, int length) {
+            byte[] key = new byte[length / 8];
+            for (int i = 0; i < key.length * 8; i++) {
+                key[i / 8] |= (byte) (symbols[i] << (7 - i % 8));
+            }
+            return key;
+        }
+    };
+
+    private final int size;
+
+    KeyAlphabet(int size) {
+        this.size = size;
+    }
+
+    /**
+     * Gets the number of distinct symbols.
+     *
+     * @return the alphabet size, or 0 if symbols are unbounded and children are hashed
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if this alphabet works on bytes and accepts byte[] keys.
+     *
+     * @return true for byte-level alphabets, false otherwise
+     */
+    public boolean isByteLevel() {
+        return size > 0;
+    }
+
+    /**
+     * Creates an empty node with the child storage suited to this alphabet.
+     */
+    TrieNode newNode() {
+        return size > 0 ? new TrieNode(size) : new TrieNode();
+    }
+
+    /**
+     * Splits a String key into symbols.
+     */
+    int[] encode(String word) {
+        return encode(word.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Splits a byte[] key into symbols.
+     */
+    int[] encode(byte[] key) {
+        throw new IllegalArgumentException("Byte keys are not supported by alphabet " + this);
+    }
+
+    /**
+     * Rebuilds a String key from the first length symbols.
+     */
+    String decode(int[] symbols, int length) {
+        return new String(decodeBytes(symbols, length), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Rebuilds a String key from the first length symbols, rejecting
+     * byte sequences that are not valid UTF-8 instead of replacing them.
+     */
+    String decodeStrict(int[] symbols, int length) {
+        if (!isByteLevel()) {
+            return decode(symbols, length);
+        }
+        try {
+            return StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT)
+                    .decode(ByteBuffer.wrap(decodeBytes(symbols, length)))
+                    .toString();
+        } catch (CharacterCodingException e) {
+            throw new IllegalArgumentException("Key is not valid UTF-8", e);
+        }
+    }
+
+    /**
+     * Rebuilds a byte[] key from the first length symbols.
+     */
+    byte[] decodeBytes(int[] symbols, int length) {
+        throw new IllegalArgumentException("Byte keys are not supported by alphabet " + this);
+    }
+}
@@ -0,0 +1,322 @@
+package com.tornado.trie;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Read-only minimized automaton (DAWG) over a fixed set of words.
+ * Unlike {@link TrieDS}, which only shares common prefixes, this structure
+ * also shares common suffixes, so dictionaries of inflected word forms or
+ * host names need far fewer nodes.
+ *
+ * Values are not stored on the nodes (that would prevent suffix sharing).
+ * Instead every node knows how many words are reachable from it, which gives
+ * each word its position in sorted order; that position indexes a value array.
+ *
+ * Operations supported:
+ * - create: Build from sorted words, a sorted map or an existing Trie
+ * - lookup: Check if a word exists and retrieve its value
+ * - prefix search: Enumerate all words that start with a prefix
+ */
+public class TrieDAWG {
+    private final DawgNode root;
+    private final Object[] values;
+    private final int nodeCount;
+
+    private TrieDAWG(DawgNode root, Object[] values, int nodeCount) {
+        this.root = root;
+        this.values = values;
+        this.nodeCount = nodeCount;
+    }
+
+    /**
+     * Builds an automaton from words given in strictly ascending order.
+     *
+     * @param words the words to store, sorted and without duplicates
+     * @return the minimized automaton
+     */
+    public static TrieDAWG fromSortedWords(List<String> words) {
+        if (words == null) {
+            throw new IllegalArgumentException("Words cannot be null");
+        }
+        Builder builder = new Builder();
+        for (String word : words) {
+            builder.add(word, null);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Builds an automaton from a map using natural String ordering.
+     *
+     * @param entries the words and their associated values
+     * @return the minimized automaton
+     */
+    public static TrieDAWG fromSortedMap(SortedMap<String, ?> entries) {
+        if (entries == null) {
+            throw new IllegalArgumentException("Entries cannot be null");
+        }
+        if (entries.comparator() != null) {
+            throw new IllegalArgumentException("Entries must use natural ordering");
+        }
+        Builder builder = new Builder();
+        for (Map.Entry<String, ?> entry : entries.entrySet()) {
+            builder.add(entry.getKey(), entry.getValue());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Builds an automaton holding the same words and values as a Trie.
+     * Keys of byte-level Tries are decoded as UTF-8 and must be valid UTF-8.
+     *
+     * @param trie the Trie to copy
+     * @return the minimized automaton
+     */
+    public static TrieDAWG fromTrie(TrieDS trie) {
+        if (trie == null) {
+            throw new IllegalArgumentException("Trie cannot be null");
+        }
+        KeyAlphabet alphabet = trie.getAlphabet();
+
+        // A char trie already walks in String order, so it can feed the builder directly
+        if (alphabet == KeyAlphabet.UTF16_CHAR) {
+            Builder builder = new Builder();
+            addTrieWords(alphabet, trie.getRoot(), new int[16], 0, builder::add);
+            return builder.build();
+        }
+
+        SortedMap<String, Object> entries = new TreeMap<>();
+        addTrieWords(alphabet, trie.getRoot(), new int[16], 0, (word, value) -> {
+            if (entries.containsKey(word)) {
+                throw new IllegalArgumentException("Duplicate word after decoding: " + word);
+            }
+            entries.put(word, value);
+        });
+        return fromSortedMap(entries);
+    }
+
+    /**
+     * Helper method that passes the words and values of a Trie to a sink.
+     */
+    private static void addTrieWords(KeyAlphabet alphabet, TrieNode node, int[] path, int length,
+                                     BiConsumer<String, Object> sink) {
+        if (node.isEndOfWord()) {
+            sink.accept(alphabet.decodeStrict(path, length), node.getValue());
+        }
+
+        for (int symbol : node.getSymbols()) {
+            if (length == path.length) {
+                path = Arrays.copyOf(path, length * 2);
+            }
+            path[length] = symbol;
+            addTrieWords(alphabet, node.getChild(symbol), path, length + 1, sink);
+        }
+    }
+
+    /**
+     * Looks up a word in the automaton.
+     *
+     * @param word the word to look up
+     * @return true if the word exists, false otherwise
+     */
+    public boolean lookup(String word) {
+        if (word == null) {
+            throw new IllegalArgumentException("Word cannot be null");
+        }
+        if (word.isEmpty()) {
+            throw new IllegalArgumentException("Word cannot be empty");
+        }
+
+        return indexOf(word) >= 0;
+    }
+
+    /**
+     * Gets the value associated with a word.
+     *
+     * @param word the word to look up
+     * @return the value associated with the word, or null if word doesn't exist
+     */
+    public Object getValue(String word) {
+        if (word == null) {
+            throw new IllegalArgumentException("Word cannot be null");
+        }
+        if (word.isEmpty()) {
+            throw new IllegalArgumentException("Word cannot be empty");
+        }
+
+        int index = indexOf(word);
+        return index >= 0 ? values[index] : null;
+    }
+
+    /**
+     * Gets all words that start with the given prefix, in sorted order.
+     *
+     * @param prefix the prefix to search for
+     * @return a list of words that start with the prefix
+     */
+    public List<String> getWordsWithPrefix(String prefix) {
+        if (prefix == null) {
+            throw new IllegalArgumentException("prefix cannot be null");
+        }
+        List<String> result = new ArrayList<>();
+        DawgNode current = root;
+
+        for (int i = 0; i < prefix.length(); i++) {
+            int edge = current.indexOf(prefix.charAt(i));
+            if (edge < 0) {
+                return result;
+            }
+            current = current.getTarget(edge);
+        }
+
+        collectWords(current, new StringBuilder(prefix), result);
+        return result;
+    }
+
+    /**
+     * Helper method to collect all words starting from a given node.
+     */
+    private void collectWords(DawgNode node, StringBuilder currentWord, List<String> result) {
+        if (node.isFinal()) {
+            result.add(currentWord.toString());
+        }
+
+        for (int i = 0; i < node.childCount(); i++) {
+            currentWord.append(node.getLabel(i));
+            collectWords(node.getTarget(i), currentWord, result);
+            currentWord.setLength(currentWord.length() - 1);
+        }
+    }
+
+    /**
+     * Finds the position of a word in sorted order by summing the word counts
+     * of every branch skipped on the way down.
+     *
+     * @param word the word to find
+     * @return the index of the word, or -1 if it doesn't exist
+     */
+    private int indexOf(String word) {
+        DawgNode current = root;
+        int index = 0;
+
+        for (int i = 0; i < word.length(); i++) {
+            int edge = current.indexOf(word.charAt(i));
+            if (edge < 0) {
+                return -1;
+            }
+            if (current.isFinal()) {
+                index++;
+            }
+            for (int j = 0; j < edge; j++) {
+                index += current.getTarget(j).getWordCount();
+            }
+            current = current.getTarget(edge);
+        }
+
+        return current.isFinal() ? index : -1;
+    }
+
+    /**
+     * Checks if the automaton is empty.
+     *
+     * @return true if it contains no words, false otherwise
+     */
+    public boolean isEmpty() {
+        return values.length == 0;
+    }
+
+    /**
+     * Gets the number of words stored.
+     *
+     * @return the number of words
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Gets the number of distinct nodes, including the root.
+     *
+     * @return the number of nodes
+     */
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Incremental construction of a minimal automaton from sorted input
+     * (Daciuk et al.). Whenever a new word diverges from the previous one,
+     * the no longer reachable tail of the previous word is either replaced by
+     * an equivalent registered node or registered itself.
+     */
+    private static final class Builder {
+        private final DawgNode root = new DawgNode();
+        private final Map<DawgNode, DawgNode> register = new HashMap<>();
+        private final List<Object> values = new ArrayList<>();
+        private String previousWord = "";
+
+        void add(String word, Object value) {
+            if (word == null) {
+                throw new IllegalArgumentException("Word cannot be null");
+            }
+            if (word.isEmpty()) {
+                throw new IllegalArgumentException("Word cannot be empty");
+            }
+            if (!values.isEmpty() && word.compareTo(previousWord) <= 0) {
+                throw new IllegalArgumentException("Words must be in strictly ascending order: " + word);
+            }
+
+            int common = 0;
+            int max = Math.min(word.length(), previousWord.length());
+            while (common < max && word.charAt(common) == previousWord.charAt(common)) {
+                common++;
+            }
+
+            DawgNode current = root;
+            for (int i = 0; i < common; i++) {
+                current = current.lastChild();
+            }
+            if (current.hasChildren()) {
+                replaceOrRegister(current);
+            }
+
+            for (int i = common; i < word.length(); i++) {
+                DawgNode next = new DawgNode();
+                current.appendChild(word.charAt(i), next);
+                current = next;
+            }
+            current.setFinal(true);
+
+            values.add(value);
+            previousWord = word;
+        }
+
+        private void replaceOrRegister(DawgNode state) {
+            DawgNode child = state.lastChild();
+            if (child.hasChildren()) {
+                replaceOrRegister(child);
+            }
+
+            child.freeze();
+            DawgNode existing = register.putIfAbsent(child, child);
+            if (existing != null) {
+                state.replaceLastChild(existing);
+            }
+        }
+
+        TrieDAWG build() {
+            if (root.hasChildren()) {
+                replaceOrRegister(root);
+            }
+            root.freeze();
+            return new TrieDAWG(root, values.toArray(), register.size() + 1);
+        }
+    }
+}
@@ -1,11 +1,18 @@
 package com.tornado.trie;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 /**
  * Trie (Prefix Tree) data structure implementation.
  * Supports storing strings with optional associated values.
+ * Keys are split into symbols by a configurable {@link KeyAlphabet};
+ * byte-level alphabets also accept raw byte[] keys.
  *
  * Operations supported:
  * - create: Initialize a new Trie
@@ -15,13 +22,36 @@ import java.util.List;
  * - delete: Remove a word from the Trie
  */
 public class TrieDS {
+    private final KeyAlphabet alphabet;
     private TrieNode root;
 
     /**
-     * Creates a new empty Trie.
+     * Creates a new empty Trie keyed by UTF-16 chars.
      */
     public TrieDS() {
-        this.root = new TrieNode();
+        this(KeyAlphabet.UTF16_CHAR);
+    }
+
+    /**
+     * Creates a new empty Trie keyed by the given alphabet.
+     *
+     * @param alphabet the alphabet used to split keys into nodes
+     */
+    public TrieDS(KeyAlphabet alphabet) {
+        if (alphabet == null) {
+            throw new IllegalArgumentException("Alphabet cannot be null");
+        }
+        this.alphabet = alphabet;
+        this.root = alphabet.newNode();
+    }
+
+    /**
+     * Gets the alphabet used to split keys into nodes.
+     *
+     * @return the key alphabet
+     */
+    public KeyAlphabet getAlphabet() {
+        return alphabet;
     }
 
     /**
@@ -48,10 +78,36 @@ public class TrieDS {
         }
 
         System.out.println("Inserting word: " + word + " with value: " + value);
+        insertSymbols(alphabet.encode(word), value);
+    }
+
+    /**
+     * Inserts a binary key into the Trie with an associated value.
+     * Requires a byte-level alphabet.
+     *
+     * @param key the key to insert
+     * @param value the value to associate with the key
+     */
+    public void insertKey(byte[] key, Object value) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        if (key.length == 0) {
+            throw new IllegalArgumentException("Key cannot be empty");
+        }
+
+        System.out.println("Inserting key: " + Arrays.toString(key) + " with value: " + value);
+        insertSymbols(alphabet.encode(key), value);
+    }
+
+    /**
+     * Helper method that adds the path for the given symbols.
+     */
+    private void insertSymbols(int[] symbols, Object value) {
         TrieNode current = root;
 
-        for (char ch : word.toCharArray()) {
-            current = current.getChildren().computeIfAbsent(ch, c -> new TrieNode());
+        for (int symbol : symbols) {
+            current = current.getOrAddChild(symbol);
         }
 
         current.setEndOfWord(true);
@@ -73,7 +129,27 @@ public class TrieDS {
         }
 
         System.out.println("Looking up word: " + word);
-        TrieNode node = findNode(word);
+        TrieNode node = findNode(alphabet.encode(word));
+        return node != null && node.isEndOfWord();
+    }
+
+    /**
+     * Looks up a binary key in the Trie.
+     * Requires a byte-level alphabet.
+     *
+     * @param key the key to look up
+     * @return true if the key exists in the Trie, false otherwise
+     */
+    public boolean lookupKey(byte[] key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        if (key.length == 0) {
+            throw new IllegalArgumentException("Key cannot be empty");
+        }
+
+        System.out.println("Looking up key: " + Arrays.toString(key));
+        TrieNode node = findNode(alphabet.encode(key));
         return node != null && node.isEndOfWord();
     }
 
@@ -92,7 +168,30 @@ public class TrieDS {
         }
 
         System.out.println("Getting value for word: " + word);
-        TrieNode node = findNode(word);
+        TrieNode node = findNode(alphabet.encode(word));
+        if (node != null && node.isEndOfWord()) {
+            return node.getValue();
+        }
+        return null;
+    }
+
+    /**
+     * Gets the value associated with a binary key in the Trie.
+     * Requires a byte-level alphabet.
+     *
+     * @param key the key to look up
+     * @return the value associated with the key, or null if key doesn't exist
+     */
+    public Object getKeyValue(byte[] key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        if (key.length == 0) {
+            throw new IllegalArgumentException("Key cannot be empty");
+        }
+
+        System.out.println("Getting value for key: " + Arrays.toString(key));
+        TrieNode node = findNode(alphabet.encode(key));
         if (node != null && node.isEndOfWord()) {
             return node.getValue();
         }
@@ -115,7 +214,7 @@ public class TrieDS {
         }
 
         System.out.println("Updating word: " + word + " with new value: " + newValue);
-        TrieNode node = findNode(word);
+        TrieNode node = findNode(alphabet.encode(word));
         if (node != null && node.isEndOfWord()) {
             node.setValue(newValue);
             return true;
@@ -138,15 +237,34 @@ public class TrieDS {
         }
 
         System.out.println("Deleting word: " + word);
-        return deleteHelper(root, word, 0);
+        return deleteHelper(root, alphabet.encode(word), 0);
+    }
+
+    /**
+     * Deletes a binary key from the Trie.
+     * Requires a byte-level alphabet.
+     *
+     * @param key the key to delete
+     * @return true if the key was found and deleted, false otherwise
+     */
+    public boolean deleteKey(byte[] key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        if (key.length == 0) {
+            throw new IllegalArgumentException("Key cannot be empty");
+        }
+
+        System.out.println("Deleting key: " + Arrays.toString(key));
+        return deleteHelper(root, alphabet.encode(key), 0);
     }
 
     /**
      * Helper method for deleting a word from the Trie.
      * Uses recursion to traverse and clean up unnecessary nodes.
      */
-    private boolean deleteHelper(com.tornado.trie.TrieNode current, String word, int index) {
-        if (index == word.length()) {
+    private boolean deleteHelper(TrieNode current, int[] symbols, int index) {
+        if (index == symbols.length) {
             // We've reached the end of the word
             if (!current.isEndOfWord()) {
                 return false; // Word doesn't exist
@@ -159,20 +277,20 @@ public class TrieDS {
             return !current.hasChildren();
         }
 
-        char ch = word.charAt(index);
-        TrieNode node = current.getChild(ch);
+        int symbol = symbols[index];
+        TrieNode node = current.getChild(symbol);
 
         if (node == null) {
             return false; // Word doesn't exist
         }
 
-        boolean shouldDeleteChild = deleteHelper(node, word, index + 1);
+        boolean shouldDeleteChild = deleteHelper(node, symbols, index + 1);
 
         if (shouldDeleteChild) {
 
             // Return true if current has no children and is not end of another word
-            if (!node.isEndOfWord() && node.getChildren().isEmpty()) {
-                current.removeChild(ch);
+            if (!node.isEndOfWord() && !node.hasChildren()) {
+                current.removeChild(symbol);
             }
         }
 
@@ -180,19 +298,19 @@ public class TrieDS {
     }
 
     /**
-     * Finds the TrieNode corresponding to the given word.
+     * Finds the TrieNode corresponding to the given symbols.
      *
-     * @param word the word to find
+     * @param symbols the encoded word to find
      * @return the TrieNode if found, null otherwise
      */
-    private TrieNode findNode(String word) {
+    TrieNode findNode(int[] symbols) {
         TrieNode current = root;
 
-        for (char ch : word.toCharArray()) {
-            if (!current.hasChild(ch)) {
+        for (int symbol : symbols) {
+            current = current.getChild(symbol);
+            if (current == null) {
                 return null;
             }
-            current = current.getChild(ch);
         }
 
         return current;
@@ -207,6 +325,35 @@ public class TrieDS {
         return !root.hasChildren();
     }
 
+    /**
+     * Counts the nodes in the Trie, including the root.
+     *
+     * @return the number of nodes
+     */
+    public int nodeCount() {
+        return countNodes(root);
+    }
+
+    /**
+     * Helper method to count the nodes below and including a given node.
+     */
+    private int countNodes(TrieNode node) {
+        int count = 1;
+        for (int symbol : node.getSymbols()) {
+            count += countNodes(node.getChild(symbol));
+        }
+        return count;
+    }
+
+    /**
+     * Gets the root node, for structures built from this Trie.
+     *
+     * @return the root TrieNode
+     */
+    TrieNode getRoot() {
+        return root;
+    }
+
     /**
      * Gets all words in the Trie that start with the given prefix.
      *
@@ -219,10 +366,34 @@ public class TrieDS {
         }
         System.out.println("Getting words with prefix: " + prefix);
         List<String> result = new ArrayList<>();
-        TrieNode prefixNode = findNode(prefix);
+        int[] symbols = alphabet.encode(prefix);
+        TrieNode prefixNode = findNode(symbols);
+
+        if (prefixNode != null) {
+            collectWords(prefixNode, new SymbolPath(symbols), result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Gets all binary keys in the Trie that start with the given prefix.
+     * Requires a byte-level alphabet.
+     *
+     * @param prefix the prefix to search for
+     * @return a list of keys that start with the prefix
+     */
+    public List<byte[]> getKeysWithPrefix(byte[] prefix) {
+        if (prefix == null) {
+            throw new IllegalArgumentException("prefix cannot be null");
+        }
+        System.out.println("Getting keys with prefix: " + Arrays.toString(prefix));
+        List<byte[]> result = new ArrayList<>();
+        int[] symbols = alphabet.encode(prefix);
+        TrieNode prefixNode = findNode(symbols);
 
         if (prefixNode != null) {
-            collectWords(prefixNode, prefix, result);
+            collectKeys(prefixNode, new SymbolPath(symbols), result);
         }
 
         return result;
@@ -231,13 +402,145 @@ public class TrieDS {
     /**
      * Helper method to collect all words starting from a given node.
      */
-    private void collectWords(TrieNode node, String currentWord, List<String> result) {
+    private void collectWords(TrieNode node, SymbolPath path, List<String> result) {
         if (node.isEndOfWord()) {
-            result.add(currentWord);
+            result.add(alphabet.decode(path.symbols, path.length));
+        }
+
+        for (int symbol : node.getSymbols()) {
+            path.push(symbol);
+            collectWords(node.getChild(symbol), path, result);
+            path.pop();
+        }
+    }
+
+    /**
+     * Helper method to collect all binary keys starting from a given node.
+     */
+    private void collectKeys(TrieNode node, SymbolPath path, List<byte[]> result) {
+        if (node.isEndOfWord()) {
+            result.add(alphabet.decodeBytes(path.symbols, path.length));
+        }
+
+        for (int symbol : node.getSymbols()) {
+            path.push(symbol);
+            collectKeys(node.getChild(symbol), path, result);
+            path.pop();
+        }
+    }
+
+    /**
+     * Iterates lazily over the words that start with the given prefix, in the
+     * same order as {@link #getWordsWithPrefix(String)}. Only the current path
+     * is held in memory, so a large scan can be consumed in pieces.
+     * The Trie must not be modified while the iterator is in use.
+     *
+     * @param prefix the prefix to search for
+     * @return an iterator over the words that start with the prefix
+     */
+    Iterator<String> iterateWordsWithPrefix(String prefix) {
+        if (prefix == null) {
+            throw new IllegalArgumentException("prefix cannot be null");
+        }
+        int[] symbols = alphabet.encode(prefix);
+        return new WordIterator(findNode(symbols), new SymbolPath(symbols));
+    }
+
+    /**
+     * Depth-first walk with an explicit stack, yielding a word whenever it
+     * first enters an end-of-word node.
+     */
+    private final class WordIterator implements Iterator<String> {
+        private final Deque<Frame> stack = new ArrayDeque<>();
+        private final SymbolPath path;
+        private String next;
+
+        WordIterator(TrieNode start, SymbolPath path) {
+            this.path = path;
+            if (start != null) {
+                stack.push(new Frame(start));
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                next = advance();
+            }
+            return next != null;
+        }
+
+        @Override
+        public String next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            String word = next;
+            next = null;
+            return word;
+        }
+
+        private String advance() {
+            while (!stack.isEmpty()) {
+                Frame top = stack.peek();
+                if (!top.visited) {
+                    top.visited = true;
+                    if (top.node.isEndOfWord()) {
+                        return alphabet.decode(path.symbols, path.length);
+                    }
+                }
+
+                if (top.next < top.symbols.length) {
+                    int symbol = top.symbols[top.next++];
+                    path.push(symbol);
+                    stack.push(new Frame(top.node.getChild(symbol)));
+                } else {
+                    stack.pop();
+                    if (!stack.isEmpty()) {
+                        path.pop();
+                    }
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * A node on the iterator's stack and the position of its next child.
+     */
+    private static final class Frame {
+        private final TrieNode node;
+        private final int[] symbols;
+        private int next = 0;
+        private boolean visited = false;
+
+        Frame(TrieNode node) {
+            this.node = node;
+            this.symbols = node.getSymbols();
+        }
+    }
+
+    /**
+     * Growable stack of the symbols on the path from the root to the current node.
+     */
+    private static final class SymbolPath {
+        private int[] symbols;
+        private int length;
+
+        SymbolPath(int[] prefix) {
+            this.symbols = Arrays.copyOf(prefix, Math.max(16, prefix.length * 2));
+            this.length = prefix.length;
+        }
+
+        void push(int symbol) {
+            if (length == symbols.length) {
+                symbols = Arrays.copyOf(symbols, length * 2);
+            }
+            symbols[length++] = symbol;
         }
 
-        for (char ch : node.getChildren().keySet()) {
-            collectWords(node.getChild(ch), currentWord + ch, result);
+        void pop() {
+            length--;
         }
     }
-}
\ No newline at end of file
+}
@@ -1,28 +1,69 @@
 package com.tornado.trie;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 /**
  * Represents a node in the Trie data structure.
  * Each node contains:
- * - A map of child nodes (character -> TrieNode)
+ * - Its child nodes, keyed by symbol (see {@link KeyAlphabet})
  * - A flag indicating if this node represents the end of a word
  * - An optional value associated with the word (for key-value pairs)
+ *
+ * Children are kept in a hash map for unbounded alphabets (chars, code points).
+ * For fixed-size alphabets nothing is allocated until the first child is added;
+ * children are then kept in small sorted arrays, and in an array indexed
+ * directly by symbol once the node has {@link #DENSE_FAN_OUT} children
+ * (or from the start when the alphabet itself is that small).
  */
 public class TrieNode {
-    private Map<Character, TrieNode> children = new HashMap<>();
+    /**
+     * Fan-out at which a fixed-size alphabet node switches to array-indexed children.
+     */
+    static final int DENSE_FAN_OUT = 16;
+
+    private static final int[] NO_LABELS = new int[0];
+    private static final TrieNode[] NO_TARGETS = new TrieNode[0];
+
+    private Map<Integer, TrieNode> children;
+    private final int alphabetSize;
+    // Sparse: sorted labels with parallel targets. Dense: labels == null, targets indexed by symbol.
+    private int[] labels = NO_LABELS;
+    private TrieNode[] targets = NO_TARGETS;
+    private int childCount = 0;
     private boolean isEndOfWord = false;
     private Object value;
 
+    /**
+     * Creates a node whose children are kept in a hash map.
+     */
     public TrieNode() {
         this.children = new HashMap<>();
+        this.alphabetSize = 0;
         this.isEndOfWord = false;
         this.value = null;
     }
 
-    public Map<Character, TrieNode> getChildren() {
-        return children;
+    /**
+     * Creates a node for a fixed-size alphabet, whose children are kept in arrays.
+     *
+     * @param alphabetSize the number of distinct symbols
+     */
+    public TrieNode(int alphabetSize) {
+        if (alphabetSize <= 0) {
+            throw new IllegalArgumentException("Alphabet size must be positive");
+        }
+        this.alphabetSize = alphabetSize;
+        this.isEndOfWord = false;
+        this.value = null;
     }
 
     public boolean isEndOfWord() {
@@ -41,6 +82,40 @@ public class TrieNode {
         this.value = value;
     }
 
+    /**
+     * Gets the children of a hash-map node keyed by character.
+     * The map is a live view: changes to it change this node. Only children
+     * whose symbol fits in a char are visible. Array-backed nodes return an
+     * unmodifiable snapshot.
+     *
+     * @return the children keyed by character
+     * @deprecated children are keyed by int symbol; use {@link #getSymbols()}
+     *             and {@link #getChild(int)} instead
+     */
+    @Deprecated
+    public Map<Character, TrieNode> getChildren() {
+        if (children != null) {
+            return new CharacterView(children);
+        }
+        Map<Character, TrieNode> snapshot = new TreeMap<>();
+        for (int symbol : getSymbols()) {
+            if (symbol <= Character.MAX_VALUE) {
+                snapshot.put((char) symbol, getChild(symbol));
+            }
+        }
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    /**
+     * Checks if this node has a child for the given symbol.
+     *
+     * @param symbol the symbol to check
+     * @return true if child exists, false otherwise
+     */
+    public boolean hasChild(int symbol) {
+        return getChild(symbol) != null;
+    }
+
     /**
      * Checks if this node has a child for the given character.
      *
@@ -48,7 +123,24 @@ public class TrieNode {
      * @return true if child exists, false otherwise
      */
     public boolean hasChild(char ch) {
-        return children.containsKey(ch);
+        return hasChild((int) ch);
+    }
+
+    /**
+     * Gets the child node for the given symbol.
+     *
+     * @param symbol the symbol
+     * @return the child TrieNode or null if not found
+     */
+    public TrieNode getChild(int symbol) {
+        if (children != null) {
+            return children.get(symbol);
+        }
+        if (labels == null) {
+            return symbol >= 0 && symbol < targets.length ? targets[symbol] : null;
+        }
+        int index = Arrays.binarySearch(labels, 0, childCount, symbol);
+        return index >= 0 ? targets[index] : null;
     }
 
     /**
@@ -58,7 +150,23 @@ public class TrieNode {
      * @return the child TrieNode or null if not found
      */
     public TrieNode getChild(char ch) {
-        return children.get(ch);
+        return getChild((int) ch);
+    }
+
+    /**
+     * Gets the child node for the given symbol, creating it if missing.
+     * A new child uses the same kind of child storage as this node.
+     *
+     * @param symbol the symbol
+     * @return the existing or new child TrieNode
+     */
+    public TrieNode getOrAddChild(int symbol) {
+        TrieNode child = getChild(symbol);
+        if (child == null) {
+            child = children != null ? new TrieNode() : new TrieNode(alphabetSize);
+            addChild(symbol, child);
+        }
+        return child;
     }
 
     /**
@@ -68,7 +176,64 @@ public class TrieNode {
      * @param node the TrieNode to add as child
      */
     public void addChild(char ch, TrieNode node) {
-        children.put(ch, node);
+        addChild((int) ch, node);
+    }
+
+    /**
+     * Adds a child node for the given symbol.
+     *
+     * @param symbol the symbol
+     * @param node the TrieNode to add as child
+     */
+    public void addChild(int symbol, TrieNode node) {
+        if (children != null) {
+            children.put(symbol, node);
+            return;
+        }
+        if (symbol < 0 || symbol >= alphabetSize) {
+            throw new IllegalArgumentException("Symbol out of range: " + symbol);
+        }
+        if (labels != null && (alphabetSize <= DENSE_FAN_OUT || childCount >= DENSE_FAN_OUT)) {
+            makeDense();
+        }
+
+        if (labels == null) {
+            if (targets[symbol] == null) {
+                childCount++;
+            }
+            targets[symbol] = node;
+            return;
+        }
+
+        int index = Arrays.binarySearch(labels, 0, childCount, symbol);
+        if (index >= 0) {
+            targets[index] = node;
+            return;
+        }
+        int insertAt = -index - 1;
+        int[] newLabels = new int[childCount + 1];
+        TrieNode[] newTargets = new TrieNode[childCount + 1];
+        System.arraycopy(labels, 0, newLabels, 0, insertAt);
+        System.arraycopy(targets, 0, newTargets, 0, insertAt);
+        newLabels[insertAt] = symbol;
+        newTargets[insertAt] = node;
+        System.arraycopy(labels, insertAt, newLabels, insertAt + 1, childCount - insertAt);
+        System.arraycopy(targets, insertAt, newTargets, insertAt + 1, childCount - insertAt);
+        labels = newLabels;
+        targets = newTargets;
+        childCount++;
+    }
+
+    /**
+     * Switches from sorted arrays to an array indexed by symbol.
+     */
+    private void makeDense() {
+        TrieNode[] slots = new TrieNode[alphabetSize];
+        for (int i = 0; i < childCount; i++) {
+            slots[labels[i]] = targets[i];
+        }
+        labels = null;
+        targets = slots;
     }
 
     /**
@@ -77,7 +242,40 @@ public class TrieNode {
      * @param ch the character
      */
     public void removeChild(char ch) {
-        children.remove(ch);
+        removeChild((int) ch);
+    }
+
+    /**
+     * Removes the child node for the given symbol.
+     *
+     * @param symbol the symbol
+     */
+    public void removeChild(int symbol) {
+        if (children != null) {
+            children.remove(symbol);
+            return;
+        }
+        if (labels == null) {
+            if (symbol >= 0 && symbol < targets.length && targets[symbol] != null) {
+                targets[symbol] = null;
+                childCount--;
+            }
+            return;
+        }
+
+        int index = Arrays.binarySearch(labels, 0, childCount, symbol);
+        if (index < 0) {
+            return;
+        }
+        int[] newLabels = new int[childCount - 1];
+        TrieNode[] newTargets = new TrieNode[childCount - 1];
+        System.arraycopy(labels, 0, newLabels, 0, index);
+        System.arraycopy(targets, 0, newTargets, 0, index);
+        System.arraycopy(labels, index + 1, newLabels, index, childCount - index - 1);
+        System.arraycopy(targets, index + 1, newTargets, index, childCount - index - 1);
+        labels = newLabels;
+        targets = newTargets;
+        childCount--;
     }
 
     /**
@@ -86,6 +284,112 @@ public class TrieNode {
      * @return true if node has children, false otherwise
      */
     public boolean hasChildren() {
-        return !children.isEmpty();
+        return children != null ? !children.isEmpty() : childCount > 0;
+    }
+
+    /**
+     * Gets the symbols of all children in ascending order.
+     *
+     * @return the child symbols
+     */
+    public int[] getSymbols() {
+        if (children != null) {
+            // forEach rather than keySet(): HashMap caches its key set view, one more object per node
+            int[] symbols = new int[children.size()];
+            int[] i = {0};
+            children.forEach((symbol, child) -> symbols[i[0]++] = symbol);
+            Arrays.sort(symbols);
+            return symbols;
+        }
+        if (labels != null) {
+            return Arrays.copyOf(labels, childCount);
+        }
+
+        int[] symbols = new int[childCount];
+        int i = 0;
+        for (int symbol = 0; symbol < targets.length && i < childCount; symbol++) {
+            if (targets[symbol] != null) {
+                symbols[i++] = symbol;
+            }
+        }
+        return symbols;
+    }
+
+    /**
+     * Live view of int-keyed children as char-keyed children, for {@link #getChildren()}.
+     */
+    private static final class CharacterView extends AbstractMap<Character, TrieNode> {
+        private final Map<Integer, TrieNode> children;
+
+        CharacterView(Map<Integer, TrieNode> children) {
+            this.children = children;
+        }
+
+        @Override
+        public TrieNode get(Object key) {
+            return key instanceof Character ? children.get((int) (Character) key) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof Character && children.containsKey((int) (Character) key);
+        }
+
+        @Override
+        public TrieNode put(Character key, TrieNode value) {
+            return children.put((int) key, value);
+        }
+
+        @Override
+        public TrieNode remove(Object key) {
+            return key instanceof Character ? children.remove((int) (Character) key) : null;
+        }
+
+        @Override
+        public Set<Entry<Character, TrieNode>> entrySet() {
+            return new AbstractSet<Entry<Character, TrieNode>>() {
+                @Override
+                public Iterator<Entry<Character, TrieNode>> iterator() {
+                    Iterator<Entry<Integer, TrieNode>> entries = children.entrySet().stream()
+                            .filter(e -> e.getKey() <= Character.MAX_VALUE)
+                            .collect(Collectors.toList())
+                            .iterator();
+                    return new Iterator<Entry<Character, TrieNode>>() {
+                        private Entry<Integer, TrieNode> last;
+
+                        @Override
+                        public boolean hasNext() {
+                            return entries.hasNext();
+                        }
+
+                        @Override
+                        public Entry<Character, TrieNode> next() {
+                            last = entries.next();
+                            return new SimpleImmutableEntry<>((char) (int) last.getKey(), last.getValue());
+                        }
+
+                        @Override
+                        public void remove() {
+                            if (last == null) {
+                                throw new IllegalStateException();
+                            }
+                            children.remove(last.getKey());
+                            last = null;
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    int size = 0;
+                    for (int symbol : children.keySet()) {
+                        if (symbol <= Character.MAX_VALUE) {
+                            size++;
+                        }
+                    }
+                    return size;
+                }
+            };
+        }
     }
-}
\ No newline at end of file
+}
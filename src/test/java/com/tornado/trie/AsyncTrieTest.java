@@ -0,0 +1,365 @@
+package com.tornado.trie;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the asynchronous query API.
+ */
+class AsyncTrieTest {
+
+    private TrieDS trie;
+    private ExecutorService executor;
+    private AsyncTrie asyncTrie;
+
+    @BeforeEach
+    void setUp() {
+        trie = new TrieDS();
+        trie.insert("cat", "feline");
+        trie.insert("car");
+        trie.insert("card");
+        trie.insert("care");
+        trie.insert("careful");
+        trie.insert("dog");
+        trie.insert("dodge");
+        executor = Executors.newSingleThreadExecutor();
+        asyncTrie = new AsyncTrie(trie, executor);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Nested
+    @DisplayName("Future Operations")
+    class FutureOperations {
+
+        @Test
+        @DisplayName("Should look up words asynchronously")
+        void shouldLookUpWordsAsynchronously() {
+            assertTrue(asyncTrie.lookupAsync("cat").join());
+            assertFalse(asyncTrie.lookupAsync("ca").join());
+            assertEquals("feline", asyncTrie.getValueAsync("cat").join());
+            assertNull(asyncTrie.getValueAsync("car").join());
+        }
+
+        @Test
+        @DisplayName("Should look up words without console output")
+        void shouldLookUpWordsWithoutConsoleOutput() {
+            PrintStream console = System.out;
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            System.setOut(new PrintStream(output));
+            try {
+                assertTrue(asyncTrie.lookupAsync("dodge").join());
+                assertEquals("feline", asyncTrie.getValueAsync("cat").join());
+            } finally {
+                System.setOut(console);
+            }
+            assertEquals(0, output.size());
+        }
+
+        @Test
+        @DisplayName("Should get words with prefix asynchronously")
+        void shouldGetWordsWithPrefixAsynchronously() {
+            assertEquals(trie.getWordsWithPrefix("car"), asyncTrie.getWordsWithPrefixAsync("car").join());
+            assertEquals(7, asyncTrie.getWordsWithPrefixAsync("").join().size());
+            assertTrue(asyncTrie.getWordsWithPrefixAsync("elephant").join().isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should run on the configured executor")
+        void shouldRunOnTheConfiguredExecutor() {
+            List<Runnable> tasks = new ArrayList<>();
+            AsyncTrie queued = new AsyncTrie(trie, tasks::add);
+
+            CompletableFuture<List<String>> future = queued.getWordsWithPrefixAsync("do");
+            assertFalse(future.isDone());
+            assertEquals(1, tasks.size());
+
+            tasks.get(0).run();
+            assertEquals(Arrays.asList("dodge", "dog"), future.join());
+        }
+
+        @Test
+        @DisplayName("Should stop scan when cancelled")
+        void shouldStopScanWhenCancelled() {
+            int interval = AsyncTrie.CANCELLATION_CHECK_INTERVAL;
+            List<Runnable> tasks = new ArrayList<>();
+            AsyncTrie queued = new AsyncTrie(trie, tasks::add);
+            List<CompletableFuture<List<String>>> futures = new ArrayList<>();
+            int[] produced = {0};
+
+            // Cancels the future part-way through the second batch of words
+            Iterator<String> words = new Iterator<String>() {
+                @Override
+                public boolean hasNext() {
+                    return produced[0] < interval * 10;
+                }
+
+                @Override
+                public String next() {
+                    if (++produced[0] == interval + interval / 2) {
+                        futures.get(0).cancel(true);
+                    }
+                    return "word" + produced[0];
+                }
+            };
+            futures.add(queued.collectAsync(() -> words));
+            tasks.get(0).run();
+
+            assertTrue(futures.get(0).isCancelled());
+            assertEquals(interval * 2, produced[0]);
+        }
+
+        @Test
+        @DisplayName("Should fail future when the scan throws an Error")
+        void shouldFailFutureWhenTheScanThrowsAnError() {
+            AsyncTrie direct = new AsyncTrie(trie, Runnable::run);
+            CompletableFuture<List<String>> future = direct.collectAsync(() -> {
+                throw new StackOverflowError();
+            });
+
+            CompletionException e = assertThrows(CompletionException.class, future::join);
+            assertTrue(e.getCause() instanceof StackOverflowError);
+        }
+
+        @Test
+        @DisplayName("Should fail future when executor rejects the query")
+        void shouldFailFutureWhenExecutorRejectsTheQuery() {
+            AsyncTrie rejecting = new AsyncTrie(trie, task -> {
+                throw new RejectedExecutionException("shut down");
+            });
+
+            assertRejected(rejecting.lookupAsync("cat"));
+            assertRejected(rejecting.getValueAsync("cat"));
+            assertRejected(rejecting.getWordsWithPrefixAsync("ca"));
+        }
+
+        private void assertRejected(CompletableFuture<?> future) {
+            CompletionException e = assertThrows(CompletionException.class, future::join);
+            assertTrue(e.getCause() instanceof RejectedExecutionException);
+        }
+
+        @Test
+        @DisplayName("Should throw exception for invalid arguments")
+        void shouldThrowExceptionForInvalidArguments() {
+            assertThrows(IllegalArgumentException.class, () -> new AsyncTrie(null));
+            assertThrows(IllegalArgumentException.class, () -> new AsyncTrie(trie, null));
+            assertThrows(IllegalArgumentException.class, () -> asyncTrie.lookupAsync(null));
+            assertThrows(IllegalArgumentException.class, () -> asyncTrie.getValueAsync(""));
+            assertThrows(IllegalArgumentException.class, () -> asyncTrie.getWordsWithPrefixAsync(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Publisher Operations")
+    class PublisherOperations {
+
+        @Test
+        @DisplayName("Should publish all words in bounded chunks")
+        void shouldPublishAllWordsInBoundedChunks() {
+            RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+            asyncTrie.publishWordsWithPrefix("", 3).subscribe(subscriber);
+
+            subscriber.awaitTermination();
+            assertTrue(subscriber.completed);
+            assertNull(subscriber.error);
+            assertEquals(Arrays.asList(3, 3, 1), subscriber.chunkSizes());
+            assertEquals(trie.getWordsWithPrefix(""), subscriber.words());
+        }
+
+        @Test
+        @DisplayName("Should publish everything in one chunk for a huge chunk size")
+        void shouldPublishEverythingInOneChunkForHugeChunkSize() {
+            RecordingSubscriber subscriber = new RecordingSubscriber(1);
+            new AsyncTrie(trie, Runnable::run).publishWordsWithPrefix("", Integer.MAX_VALUE).subscribe(subscriber);
+
+            assertNull(subscriber.error);
+            assertTrue(subscriber.completed);
+            assertEquals(Arrays.asList(7), subscriber.chunkSizes());
+        }
+
+        @Test
+        @DisplayName("Should signal error when the scan throws an Error")
+        void shouldSignalErrorWhenTheScanThrowsAnError() {
+            RecordingSubscriber subscriber = new RecordingSubscriber(1);
+            new AsyncTrie(trie, Runnable::run).publish(() -> {
+                throw new StackOverflowError();
+            }, 10).subscribe(subscriber);
+
+            assertTrue(subscriber.error instanceof StackOverflowError);
+            assertFalse(subscriber.completed);
+        }
+
+        @Test
+        @DisplayName("Should emit only as many chunks as requested")
+        void shouldEmitOnlyAsManyChunksAsRequested() {
+            List<Runnable> tasks = new ArrayList<>();
+            AsyncTrie queued = new AsyncTrie(trie, tasks::add);
+            RecordingSubscriber subscriber = new RecordingSubscriber(0);
+            queued.publishWordsWithPrefix("car", 2).subscribe(subscriber);
+
+            assertTrue(tasks.isEmpty()); // no demand, no scan
+            subscriber.subscription.request(1);
+            runAll(tasks);
+            assertEquals(Arrays.asList(Arrays.asList("car", "card")), subscriber.chunks);
+            assertFalse(subscriber.completed);
+
+            subscriber.subscription.request(5);
+            runAll(tasks);
+            assertEquals(Arrays.asList("car", "card", "care", "careful"), subscriber.words());
+            assertTrue(subscriber.completed);
+        }
+
+        @Test
+        @DisplayName("Should stop emitting when cancelled")
+        void shouldStopEmittingWhenCancelled() {
+            RecordingSubscriber subscriber = new RecordingSubscriber(0) {
+                @Override
+                public void onNext(List<String> chunk) {
+                    super.onNext(chunk);
+                    subscription.cancel();
+                }
+            };
+            new AsyncTrie(trie, Runnable::run).publishWordsWithPrefix("", 1).subscribe(subscriber);
+
+            subscriber.subscription.request(Long.MAX_VALUE);
+            assertEquals(1, subscriber.chunks.size());
+            assertFalse(subscriber.completed);
+            assertNull(subscriber.error);
+        }
+
+        @Test
+        @DisplayName("Should complete without chunks for missing prefix")
+        void shouldCompleteWithoutChunksForMissingPrefix() {
+            RecordingSubscriber subscriber = new RecordingSubscriber(1);
+            new AsyncTrie(trie, Runnable::run).publishWordsWithPrefix("elephant", 10).subscribe(subscriber);
+
+            assertTrue(subscriber.chunks.isEmpty());
+            assertTrue(subscriber.completed);
+        }
+
+        @Test
+        @DisplayName("Should signal error for non-positive request")
+        void shouldSignalErrorForNonPositiveRequest() {
+            RecordingSubscriber subscriber = new RecordingSubscriber(0);
+            new AsyncTrie(trie, Runnable::run).publishWordsWithPrefix("", 10).subscribe(subscriber);
+
+            subscriber.subscription.request(0);
+            assertTrue(subscriber.error instanceof IllegalArgumentException);
+            assertTrue(subscriber.chunks.isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should signal error when executor rejects the scan")
+        void shouldSignalErrorWhenExecutorRejectsTheScan() {
+            RecordingSubscriber subscriber = new RecordingSubscriber(1);
+            new AsyncTrie(trie, task -> {
+                throw new RejectedExecutionException("shut down");
+            }).publishWordsWithPrefix("", 10).subscribe(subscriber);
+
+            assertTrue(subscriber.error instanceof RejectedExecutionException);
+        }
+
+        @Test
+        @DisplayName("Should throw exception for invalid arguments")
+        void shouldThrowExceptionForInvalidArguments() {
+            assertThrows(IllegalArgumentException.class, () -> asyncTrie.publishWordsWithPrefix(null, 10));
+            assertThrows(IllegalArgumentException.class, () -> asyncTrie.publishWordsWithPrefix("", 0));
+            assertThrows(NullPointerException.class, () -> asyncTrie.publishWordsWithPrefix("", 10).subscribe(null));
+        }
+
+        private void runAll(List<Runnable> tasks) {
+            while (!tasks.isEmpty()) {
+                tasks.remove(0).run();
+            }
+        }
+    }
+
+    /**
+     * Subscriber that records every signal and requests a fixed amount up front.
+     */
+    private static class RecordingSubscriber implements Flow.Subscriber<List<String>> {
+        private final long initialRequest;
+        private final CompletableFuture<Void> terminated = new CompletableFuture<>();
+        final List<List<String>> chunks = new ArrayList<>();
+        Flow.Subscription subscription;
+        volatile boolean completed = false;
+        volatile Throwable error;
+
+        RecordingSubscriber(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialRequest > 0) {
+                subscription.request(initialRequest);
+            }
+        }
+
+        @Override
+        public void onNext(List<String> chunk) {
+            synchronized (chunks) {
+                chunks.add(chunk);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            terminated.complete(null);
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            terminated.complete(null);
+        }
+
+        void awaitTermination() {
+            terminated.orTimeout(5, TimeUnit.SECONDS).join();
+        }
+
+        List<Integer> chunkSizes() {
+            synchronized (chunks) {
+                List<Integer> sizes = new ArrayList<>();
+                for (List<String> chunk : chunks) {
+                    sizes.add(chunk.size());
+                }
+                return sizes;
+            }
+        }
+
+        List<String> words() {
+            synchronized (chunks) {
+                List<String> words = new ArrayList<>();
+                for (List<String> chunk : chunks) {
+                    words.addAll(chunk);
+                }
+                return words;
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.tornado.trie;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares node count, retained heap and lookup time across key alphabets.
+ * Not part of the unit test suite; run it after {@code mvn test-compile} with
+ *
+ *   java -XX:+UseG1GC -cp target/classes:target/test-classes com.tornado.trie.KeyAlphabetBenchmark [words]
+ *
+ * Each alphabet is measured in its own forked JVM, so JIT profiles and heap state
+ * of one alphabet do not skew the next. Each timed lookup encodes the word and walks
+ * the Trie, the same work as {@link TrieDS#lookup(String)} minus its console logging.
+ * Heap is measured as the change in used memory after explicit garbage collection,
+ * so it is approximate; SerialGC (the JVM default on small machines) does not report
+ * it reliably, hence the G1 flag above.
+ */
+public class KeyAlphabetBenchmark {
+
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 50;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        if (args.length > 1) {
+            KeyAlphabet alphabet = KeyAlphabet.valueOf(args[1]);
+            List<String> words = randomWords(42, count);
+            // Load and initialize every class involved before taking the heap baseline
+            build(alphabet, randomWords(7, 100)).nodeCount();
+            run(alphabet, words);
+            return;
+        }
+
+        System.out.printf("%d random ASCII words%n", count);
+        System.out.printf("%-10s %10s %14s %12s%n", "alphabet", "nodes", "heap bytes", "lookup ns");
+        for (KeyAlphabet alphabet : KeyAlphabet.values()) {
+            fork(count, alphabet);
+        }
+    }
+
+    /**
+     * Runs the benchmark for one alphabet in a new JVM with the same class path.
+     */
+    private static void fork(int count, KeyAlphabet alphabet) throws IOException, InterruptedException {
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        Process process = new ProcessBuilder(java, "-XX:+UseG1GC",
+                "-cp", System.getProperty("java.class.path"),
+                KeyAlphabetBenchmark.class.getName(), String.valueOf(count), alphabet.name())
+                .inheritIO()
+                .start();
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException("Benchmark failed for " + alphabet);
+        }
+    }
+
+    /**
+     * Measures one alphabet: heap retained by the Trie, then lookup time.
+     */
+    private static void run(KeyAlphabet alphabet, List<String> words) {
+        long before = usedHeap();
+        TrieDS trie = build(alphabet, words);
+        long heap = usedHeap() - before;
+
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            lookupAll(trie, words);
+        }
+        long start = System.nanoTime();
+        long found = 0;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            found += lookupAll(trie, words);
+        }
+        double nanosPerLookup = (double) (System.nanoTime() - start) / ((long) MEASURED_ROUNDS * words.size());
+        if (found != (long) MEASURED_ROUNDS * words.size()) {
+            throw new IllegalStateException("Lookup missed words for " + alphabet);
+        }
+
+        System.out.printf("%-10s %10d %14d %12.1f%n", alphabet, trie.nodeCount(), heap, nanosPerLookup);
+    }
+
+    /**
+     * Generates reproducible random lowercase words of 4 to 11 letters.
+     */
+    static List<String> randomWords(long seed, int count) {
+        Random random = new Random(seed);
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            StringBuilder word = new StringBuilder();
+            int length = 4 + random.nextInt(8);
+            for (int j = 0; j < length; j++) {
+                word.append((char) ('a' + random.nextInt(26)));
+            }
+            words.add(word.toString());
+        }
+        return words;
+    }
+
+    /**
+     * Builds a Trie of the given words with its console logging silenced.
+     */
+    static TrieDS build(KeyAlphabet alphabet, List<String> words) {
+        PrintStream out = System.out;
+        try {
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+            TrieDS trie = new TrieDS(alphabet);
+            for (String word : words) {
+                trie.insert(word);
+            }
+            return trie;
+        } finally {
+            System.setOut(out);
+        }
+    }
+
+    private static int lookupAll(TrieDS trie, List<String> words) {
+        KeyAlphabet alphabet = trie.getAlphabet();
+        int found = 0;
+        for (String word : words) {
+            TrieNode node = trie.findNode(alphabet.encode(word));
+            if (node != null && node.isEndOfWord()) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
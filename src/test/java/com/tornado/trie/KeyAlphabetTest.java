@@ -0,0 +1,169 @@
+package com.tornado.trie;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * Unit tests for the configurable key alphabets of the Trie.
+ */
+class KeyAlphabetTest {
+
+    private static final String EMOJI = "😀"; // U+1F600, a surrogate pair in UTF-16
+
+    @Nested
+    @DisplayName("String Keys")
+    class StringKeys {
+
+        @ParameterizedTest
+        @EnumSource(KeyAlphabet.class)
+        @DisplayName("Should support CRUD operations in every alphabet")
+        void shouldSupportCrudOperationsInEveryAlphabet(KeyAlphabet alphabet) {
+            TrieDS trie = new TrieDS(alphabet);
+            assertSame(alphabet, trie.getAlphabet());
+            assertTrue(trie.isEmpty());
+
+            trie.insert("car", 1);
+            trie.insert("care", 2);
+            trie.insert("café", 3);
+            trie.insert("smile" + EMOJI, 4);
+
+            assertTrue(trie.lookup("car"));
+            assertFalse(trie.lookup("ca"));
+            assertEquals(3, trie.getValue("café"));
+            assertEquals(4, trie.getValue("smile" + EMOJI));
+            assertTrue(trie.update("care", 5));
+            assertEquals(5, trie.getValue("care"));
+            assertEquals(Arrays.asList("café", "car", "care"), sorted(trie.getWordsWithPrefix("ca")));
+
+            assertTrue(trie.delete("car"));
+            assertFalse(trie.lookup("car"));
+            assertTrue(trie.lookup("care"));
+            assertTrue(trie.delete("care"));
+            assertTrue(trie.delete("café"));
+            assertTrue(trie.delete("smile" + EMOJI));
+            assertTrue(trie.isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should store supplementary characters in one node per code point")
+        void shouldStoreSupplementaryCharactersInOneNode() {
+            TrieDS chars = new TrieDS(KeyAlphabet.UTF16_CHAR);
+            TrieDS codePoints = new TrieDS(KeyAlphabet.CODE_POINT);
+            chars.insert(EMOJI + EMOJI);
+            codePoints.insert(EMOJI + EMOJI);
+
+            assertEquals(5, chars.nodeCount());
+            assertEquals(3, codePoints.nodeCount());
+            assertEquals(Arrays.asList(EMOJI + EMOJI), codePoints.getWordsWithPrefix(EMOJI));
+        }
+
+        @Test
+        @DisplayName("Should throw exception for null alphabet")
+        void shouldThrowExceptionForNullAlphabet() {
+            assertThrows(IllegalArgumentException.class, () -> new TrieDS(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Byte Keys")
+    class ByteKeys {
+
+        @ParameterizedTest
+        @EnumSource(value = KeyAlphabet.class, names = {"UTF8_BYTE", "NIBBLE", "BIT"})
+        @DisplayName("Should store binary keys in byte-level alphabets")
+        void shouldStoreBinaryKeys(KeyAlphabet alphabet) {
+            TrieDS trie = new TrieDS(alphabet);
+            byte[] network = {10, 0};
+            byte[] host = {10, 0, 0, 1};
+            byte[] other = {(byte) 192, (byte) 168, 1, (byte) 255};
+
+            trie.insertKey(network, "private /16");
+            trie.insertKey(host, "gateway");
+            trie.insertKey(other, "home");
+
+            assertTrue(trie.lookupKey(host));
+            assertFalse(trie.lookupKey(new byte[]{10}));
+            assertEquals("home", trie.getKeyValue(other));
+            assertEquals(2, trie.getKeysWithPrefix(new byte[]{10}).size());
+            assertArrayEquals(other, trie.getKeysWithPrefix(new byte[]{(byte) 192}).get(0));
+
+            assertTrue(trie.deleteKey(network));
+            assertFalse(trie.lookupKey(network));
+            assertTrue(trie.lookupKey(host));
+        }
+
+        @Test
+        @DisplayName("Should keep keys when a node grows past the dense fan-out")
+        void shouldKeepKeysWhenNodeGrowsPastDenseFanOut() {
+            TrieDS trie = new TrieDS(KeyAlphabet.UTF8_BYTE);
+            int keys = TrieNode.DENSE_FAN_OUT * 3;
+            for (int i = keys - 1; i >= 0; i--) {
+                trie.insertKey(new byte[]{(byte) (i * 5), 1}, i);
+            }
+
+            List<byte[]> all = trie.getKeysWithPrefix(new byte[0]);
+            assertEquals(keys, all.size());
+            for (int i = 0; i < keys; i++) {
+                assertArrayEquals(new byte[]{(byte) (i * 5), 1}, all.get(i)); // i * 5 < 128, so ascending
+                assertEquals(i, trie.getKeyValue(new byte[]{(byte) (i * 5), 1}));
+            }
+
+            for (int i = 0; i < keys; i++) {
+                assertTrue(trie.deleteKey(new byte[]{(byte) (i * 5), 1}));
+            }
+            assertTrue(trie.isEmpty());
+        }
+
+        @ParameterizedTest
+        @EnumSource(value = KeyAlphabet.class, names = {"UTF16_CHAR", "CODE_POINT"})
+        @DisplayName("Should reject binary keys in char alphabets")
+        void shouldRejectBinaryKeysInCharAlphabets(KeyAlphabet alphabet) {
+            TrieDS trie = new TrieDS(alphabet);
+            assertThrows(IllegalArgumentException.class, () -> trie.insertKey(new byte[]{1}, null));
+            assertThrows(IllegalArgumentException.class, () -> trie.lookupKey(new byte[]{1}));
+            assertThrows(IllegalArgumentException.class, () -> trie.getKeysWithPrefix(new byte[0]));
+        }
+
+        @Test
+        @DisplayName("Should throw exception for null or empty key")
+        void shouldThrowExceptionForNullOrEmptyKey() {
+            TrieDS trie = new TrieDS(KeyAlphabet.UTF8_BYTE);
+            assertThrows(IllegalArgumentException.class, () -> trie.insertKey((byte[]) null, null));
+            assertThrows(IllegalArgumentException.class, () -> trie.insertKey(new byte[0], null));
+            assertThrows(IllegalArgumentException.class, () -> trie.lookupKey((byte[]) null));
+            assertThrows(IllegalArgumentException.class, () -> trie.deleteKey(new byte[0]));
+        }
+    }
+
+    @Nested
+    @DisplayName("Node Count")
+    class NodeCount {
+
+        @Test
+        @DisplayName("Should use the expected number of nodes per alphabet")
+        void shouldUseTheExpectedNumberOfNodesPerAlphabet() {
+            List<String> words = KeyAlphabetBenchmark.randomWords(42, 2000);
+
+            // ASCII words: one node per char/code point/byte, two per nibble, eight per bit
+            assertEquals(11637, KeyAlphabetBenchmark.build(KeyAlphabet.UTF16_CHAR, words).nodeCount());
+            assertEquals(11637, KeyAlphabetBenchmark.build(KeyAlphabet.CODE_POINT, words).nodeCount());
+            assertEquals(11637, KeyAlphabetBenchmark.build(KeyAlphabet.UTF8_BYTE, words).nodeCount());
+            assertEquals(21752, KeyAlphabetBenchmark.build(KeyAlphabet.NIBBLE, words).nodeCount());
+            assertEquals(83304, KeyAlphabetBenchmark.build(KeyAlphabet.BIT, words).nodeCount());
+        }
+    }
+
+    private static List<String> sorted(List<String> words) {
+        List<String> copy = new ArrayList<>(words);
+        copy.sort(null);
+        return copy;
+    }
+}
@@ -0,0 +1,109 @@
+package com.tornado.trie;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Compares nodes and retained heap of a Trie and the DAWG minimized from it.
+ * Not part of the unit test suite; run it after {@code mvn test-compile} with
+ *
+ *   java -XX:+UseG1GC -cp target/classes:target/test-classes com.tornado.trie.TrieDAWGBenchmark
+ *
+ * Uses the corpora of {@code TrieDAWGTest}, with each word's length as its value.
+ * Heap is measured the same way as in {@link KeyAlphabetBenchmark}.
+ */
+public class TrieDAWGBenchmark {
+
+    public static void main(String[] args) {
+        System.out.printf("%-16s %8s %11s %13s %11s %13s%n",
+                "corpus", "words", "trie nodes", "trie bytes", "DAWG nodes", "DAWG bytes");
+
+        // Load and initialize every class involved before taking heap baselines
+        TrieDAWG.fromTrie(build(inflectedForms(7, 10))).nodeCount();
+
+        run("inflected forms", inflectedForms(42, 500));
+        run("host names", hostNames(42, 400));
+    }
+
+    /**
+     * Measures one corpus. Kept in its own method so that nothing from the
+     * previous corpus is still reachable when the next heap baseline is taken.
+     */
+    private static void run(String corpus, List<String> words) {
+        long before = KeyAlphabetBenchmark.usedHeap();
+        TrieDS trie = build(words);
+        long trieHeap = KeyAlphabetBenchmark.usedHeap() - before;
+
+        before = KeyAlphabetBenchmark.usedHeap();
+        TrieDAWG dawg = TrieDAWG.fromTrie(trie);
+        long dawgHeap = KeyAlphabetBenchmark.usedHeap() - before;
+
+        System.out.printf("%-16s %8d %11d %13d %11d %13d%n",
+                corpus, words.size(), trie.nodeCount(), trieHeap, dawg.nodeCount(), dawgHeap);
+    }
+
+    /**
+     * Generates sorted inflected forms: random stems of 4 to 8 letters, each with ten endings.
+     */
+    static List<String> inflectedForms(long seed, int stems) {
+        String[] endings = {"", "s", "ed", "ing", "er", "ers", "ment", "ments", "able", "ably"};
+        Random random = new Random(seed);
+        Set<String> words = new TreeSet<>();
+        for (int i = 0; i < stems; i++) {
+            String stem = randomLabel(random, 4 + random.nextInt(5));
+            for (String ending : endings) {
+                words.add(stem + ending);
+            }
+        }
+        return new ArrayList<>(words);
+    }
+
+    /**
+     * Generates sorted host names: random labels of 5 to 10 letters under four services and four domains.
+     */
+    static List<String> hostNames(long seed, int hosts) {
+        String[] domains = {".example.com", ".example.org", ".acme.net", ".contoso.co.uk"};
+        String[] services = {"www.", "api.", "mail.", "cdn."};
+        Random random = new Random(seed);
+        Set<String> words = new TreeSet<>();
+        for (int i = 0; i < hosts; i++) {
+            String host = randomLabel(random, 5 + random.nextInt(6));
+            for (String service : services) {
+                for (String domain : domains) {
+                    words.add(service + host + domain);
+                }
+            }
+        }
+        return new ArrayList<>(words);
+    }
+
+    /**
+     * Builds a Trie mapping each word to its length, with its console logging silenced.
+     */
+    static TrieDS build(List<String> words) {
+        PrintStream out = System.out;
+        try {
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+            TrieDS trie = new TrieDS();
+            for (String word : words) {
+                trie.insert(word, word.length());
+            }
+            return trie;
+        } finally {
+            System.setOut(out);
+        }
+    }
+
+    private static String randomLabel(Random random, int length) {
+        StringBuilder label = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            label.append((char) ('a' + random.nextInt(26)));
+        }
+        return label.toString();
+    }
+}
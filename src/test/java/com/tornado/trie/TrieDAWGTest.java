@@ -0,0 +1,214 @@
+package com.tornado.trie;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the minimized automaton (DAWG).
+ */
+class TrieDAWGTest {
+
+    private TrieDAWG dawg;
+
+    @BeforeEach
+    void setUp() {
+        TreeMap<String, Object> entries = new TreeMap<>();
+        entries.put("cat", "feline");
+        entries.put("car", null);
+        entries.put("card", 1);
+        entries.put("care", 2);
+        entries.put("careful", 3);
+        entries.put("dog", "canine");
+        entries.put("dodge", 4);
+        dawg = TrieDAWG.fromSortedMap(entries);
+    }
+
+    @Nested
+    @DisplayName("Create Operations")
+    class CreateOperations {
+
+        @Test
+        @DisplayName("Should create empty automaton")
+        void shouldCreateEmptyAutomaton() {
+            TrieDAWG empty = TrieDAWG.fromSortedWords(Collections.emptyList());
+            assertTrue(empty.isEmpty());
+            assertEquals(0, empty.size());
+            assertEquals(1, empty.nodeCount());
+            assertFalse(empty.lookup("cat"));
+        }
+
+        @Test
+        @DisplayName("Should build from sorted words")
+        void shouldBuildFromSortedWords() {
+            TrieDAWG words = TrieDAWG.fromSortedWords(Arrays.asList("a", "ab", "b"));
+            assertEquals(3, words.size());
+            assertTrue(words.lookup("a"));
+            assertTrue(words.lookup("ab"));
+            assertTrue(words.lookup("b"));
+            assertNull(words.getValue("ab"));
+        }
+
+        @Test
+        @DisplayName("Should build from existing trie")
+        void shouldBuildFromExistingTrie() {
+            TrieDS trie = new TrieDS();
+            trie.insert("tops", 1);
+            trie.insert("top", 2);
+            trie.insert("taps", 3);
+            trie.insert("tap", 4);
+
+            TrieDAWG copy = TrieDAWG.fromTrie(trie);
+            assertEquals(4, copy.size());
+            assertEquals(1, copy.getValue("tops"));
+            assertEquals(2, copy.getValue("top"));
+            assertEquals(3, copy.getValue("taps"));
+            assertEquals(4, copy.getValue("tap"));
+            assertEquals(Arrays.asList("tap", "taps", "top", "tops"), copy.getWordsWithPrefix(""));
+        }
+
+        @Test
+        @DisplayName("Should build from byte-level trie")
+        void shouldBuildFromByteLevelTrie() {
+            TrieDS trie = new TrieDS(KeyAlphabet.UTF8_BYTE);
+            trie.insert("zebra", 1);
+            trie.insert("café", 2);
+            trie.insert("caf", 3);
+
+            TrieDAWG copy = TrieDAWG.fromTrie(trie);
+            assertEquals(Arrays.asList("caf", "café", "zebra"), copy.getWordsWithPrefix(""));
+            assertEquals(2, copy.getValue("café"));
+        }
+
+        @Test
+        @DisplayName("Should reject trie with keys that are not valid UTF-8")
+        void shouldRejectTrieWithInvalidUtf8Keys() {
+            TrieDS trie = new TrieDS(KeyAlphabet.UTF8_BYTE);
+            trie.insertKey(new byte[]{(byte) 0xFF}, 1);
+            trie.insertKey(new byte[]{(byte) 0xFE}, 2);
+
+            assertThrows(IllegalArgumentException.class, () -> TrieDAWG.fromTrie(trie));
+        }
+
+        @Test
+        @DisplayName("Should throw exception for unsorted words")
+        void shouldThrowExceptionForUnsortedWords() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> TrieDAWG.fromSortedWords(Arrays.asList("b", "a")));
+            assertThrows(IllegalArgumentException.class,
+                    () -> TrieDAWG.fromSortedWords(Arrays.asList("a", "a")));
+        }
+
+        @Test
+        @DisplayName("Should throw exception for invalid input")
+        void shouldThrowExceptionForInvalidInput() {
+            assertThrows(IllegalArgumentException.class, () -> TrieDAWG.fromSortedWords(null));
+            assertThrows(IllegalArgumentException.class, () -> TrieDAWG.fromSortedMap(null));
+            assertThrows(IllegalArgumentException.class, () -> TrieDAWG.fromTrie(null));
+            assertThrows(IllegalArgumentException.class,
+                    () -> TrieDAWG.fromSortedWords(Arrays.asList("", "a")));
+            assertThrows(IllegalArgumentException.class,
+                    () -> TrieDAWG.fromSortedMap(new TreeMap<>(Collections.reverseOrder())));
+        }
+    }
+
+    @Nested
+    @DisplayName("Lookup Operations")
+    class LookupOperations {
+
+        @Test
+        @DisplayName("Should find existing words")
+        void shouldFindExistingWords() {
+            assertTrue(dawg.lookup("cat"));
+            assertTrue(dawg.lookup("car"));
+            assertTrue(dawg.lookup("careful"));
+            assertTrue(dawg.lookup("dodge"));
+        }
+
+        @Test
+        @DisplayName("Should not find non-existing words")
+        void shouldNotFindNonExistingWords() {
+            assertFalse(dawg.lookup("ca"));
+            assertFalse(dawg.lookup("cards"));
+            assertFalse(dawg.lookup("elephant"));
+        }
+
+        @Test
+        @DisplayName("Should get correct values")
+        void shouldGetCorrectValues() {
+            assertEquals("feline", dawg.getValue("cat"));
+            assertNull(dawg.getValue("car"));
+            assertEquals(1, dawg.getValue("card"));
+            assertEquals(2, dawg.getValue("care"));
+            assertEquals(3, dawg.getValue("careful"));
+            assertEquals("canine", dawg.getValue("dog"));
+            assertEquals(4, dawg.getValue("dodge"));
+            assertNull(dawg.getValue("ca"));
+        }
+
+        @Test
+        @DisplayName("Should throw exception for null or empty lookup")
+        void shouldThrowExceptionForNullOrEmptyLookup() {
+            assertThrows(IllegalArgumentException.class, () -> dawg.lookup(null));
+            assertThrows(IllegalArgumentException.class, () -> dawg.lookup(""));
+            assertThrows(IllegalArgumentException.class, () -> dawg.getValue(null));
+            assertThrows(IllegalArgumentException.class, () -> dawg.getValue(""));
+        }
+    }
+
+    @Nested
+    @DisplayName("Prefix Search Operations")
+    class PrefixSearchOperations {
+
+        @Test
+        @DisplayName("Should find words with prefix in sorted order")
+        void shouldFindWordsWithPrefixInSortedOrder() {
+            assertEquals(Arrays.asList("car", "card", "care", "careful"), dawg.getWordsWithPrefix("car"));
+            assertEquals(Arrays.asList("dodge", "dog"), dawg.getWordsWithPrefix("do"));
+        }
+
+        @Test
+        @DisplayName("Should handle empty and missing prefix")
+        void shouldHandleEmptyAndMissingPrefix() {
+            assertEquals(7, dawg.getWordsWithPrefix("").size());
+            assertTrue(dawg.getWordsWithPrefix("elephant").isEmpty());
+            assertThrows(IllegalArgumentException.class, () -> dawg.getWordsWithPrefix(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Compression")
+    class Compression {
+
+        @Test
+        @DisplayName("Should share suffixes of inflected word forms")
+        void shouldShareSuffixesOfInflectedWordForms() {
+            assertCompressed(TrieDAWGBenchmark.inflectedForms(42, 500), 5.0);
+        }
+
+        @Test
+        @DisplayName("Should share suffixes of host names")
+        void shouldShareSuffixesOfHostNames() {
+            assertCompressed(TrieDAWGBenchmark.hostNames(42, 400), 5.0);
+        }
+
+        private void assertCompressed(List<String> words, double minimumRatio) {
+            TrieDS trie = TrieDAWGBenchmark.build(words);
+            TrieDAWG minimized = TrieDAWG.fromTrie(trie);
+            double ratio = (double) trie.nodeCount() / minimized.nodeCount();
+
+            assertEquals(words, minimized.getWordsWithPrefix(""));
+            for (String word : words) {
+                assertEquals(word.length(), minimized.getValue(word));
+            }
+            assertTrue(ratio >= minimumRatio, "Expected at least " + minimumRatio + "x fewer nodes, got " + ratio);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.tornado.trie;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the child storage of Trie nodes.
+ */
+class TrieNodeTest {
+
+    @Nested
+    @DisplayName("Character API")
+    class CharacterApi {
+
+        @Test
+        @DisplayName("Should add, find and remove children by character")
+        void shouldAddFindAndRemoveChildrenByCharacter() {
+            TrieNode node = new TrieNode();
+            TrieNode child = new TrieNode();
+
+            node.addChild('a', child);
+            assertTrue(node.hasChild('a'));
+            assertSame(child, node.getChild('a'));
+            assertSame(child, node.getChild((int) 'a'));
+
+            node.removeChild('a');
+            assertFalse(node.hasChild('a'));
+            assertFalse(node.hasChildren());
+        }
+
+        @Test
+        @SuppressWarnings("deprecation")
+        @DisplayName("Should expose map-backed children as a live character map")
+        void shouldExposeMapBackedChildrenAsLiveCharacterMap() {
+            TrieNode node = new TrieNode();
+            TrieNode child = node.getChildren().computeIfAbsent('b', c -> new TrieNode());
+            node.addChild(0x1F600, new TrieNode()); // not a char, so not visible
+
+            assertSame(child, node.getChild('b'));
+            Map<Character, TrieNode> children = node.getChildren();
+            assertEquals(1, children.size());
+            assertSame(child, children.get('b'));
+
+            children.keySet().removeIf(ch -> ch == 'b');
+            assertFalse(node.hasChild('b'));
+            assertTrue(node.hasChild(0x1F600));
+        }
+
+        @Test
+        @SuppressWarnings("deprecation")
+        @DisplayName("Should expose array-backed children as a read-only snapshot")
+        void shouldExposeArrayBackedChildrenAsSnapshot() {
+            TrieNode node = new TrieNode(256);
+            TrieNode child = new TrieNode(256);
+            node.addChild('c', child);
+
+            Map<Character, TrieNode> children = node.getChildren();
+            assertSame(child, children.get('c'));
+            assertThrows(UnsupportedOperationException.class, () -> children.remove('c'));
+        }
+    }
+}